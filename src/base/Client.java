@@ -3,9 +3,16 @@ package base;
 import enums.Names;
 import enums.Surnames;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class Client extends Person {
 
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    private int id;
+
     public Client() {
+        this.id = counter.incrementAndGet();
     }
 
     @Override
@@ -17,4 +24,8 @@ public class Client extends Person {
     public Surnames getSurname() {
         return super.getSurname();
     }
+
+    public int getId() {
+        return id;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package base;
+
+import enums.TypeWorkshop;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Class of the compact queue of requests of one workshop, an alternative to the queue of objects {@link Request}.
+ * Requests are kept as two parallel ring buffers of primitives: numbers of the clients and minutes of arrival,
+ * {@value #BYTES} bytes per request; the type of workshop is the same for the whole queue and is kept once.
+ * The buffers can be placed outside the heap, so that very long queues do not load the garbage collector.
+ * <p>
+ * The kind of the queue is chosen by the property {@code -Dcarservice.queue=linked|compact|offheap}.
+ */
+public class CompactRequestQueue {
+
+    private static final int BYTES = 2 * Integer.BYTES;  // int client, int time
+
+    private TypeWorkshop type;
+    private boolean offHeap;
+    private IntBuffer clients;
+    private IntBuffer times;
+    private int mask;  // capacity - 1, capacity is always a power of two
+    private int head;
+    private int size;
+
+    public CompactRequestQueue(TypeWorkshop type, int capacity, boolean offHeap) {
+        this.type = type;
+        this.offHeap = offHeap;
+        int power = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.clients = allocate(power);
+        this.times = allocate(power);
+        this.mask = power - 1;
+    }
+
+    /**
+     * Method of creating the queue of the kind set by the property {@code carservice.queue}.
+     */
+    public static CompactRequestQueue create(TypeWorkshop type) {
+        return new CompactRequestQueue(type, 1024, "offheap".equals(System.getProperty("carservice.queue")));
+    }
+
+    /**
+     * @return {@code true}, if the property {@code carservice.queue} asks for the compact queue instead of the linked list
+     */
+    public static boolean isEnabled() {
+        String queue = System.getProperty("carservice.queue", "linked");
+        return queue.equals("compact") || queue.equals("offheap");
+    }
+
+    private IntBuffer allocate(int capacity) {
+        if (!offHeap) {
+            return IntBuffer.allocate(capacity);
+        }
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    public void add(int client, int time) {
+        if (size > mask) {
+            grow();
+        }
+        int index = (head + size) & mask;
+        clients.put(index, client);
+        times.put(index, time);
+        size++;
+    }
+
+    /**
+     * Method of doubling the capacity: values are copied to the new buffers in the order of the queue.
+     */
+    private void grow() {
+        int capacity = mask + 1;
+        clients = copy(clients, capacity);
+        times = copy(times, capacity);
+        mask = capacity * 2 - 1;
+        head = 0;
+    }
+
+    private IntBuffer copy(IntBuffer old, int capacity) {
+        IntBuffer buffer = allocate(capacity * 2);
+        old.limit(capacity).position(head);  // values from the head to the end of the old buffer
+        buffer.put(old);
+        old.limit(head).position(0);
+        buffer.put(old);
+        buffer.clear();
+        return buffer;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int peekClient() {
+        return clients.get(headIndex());
+    }
+
+    public TypeWorkshop peekType() {
+        headIndex();
+        return type;
+    }
+
+    public int peekTime() {
+        return times.get(headIndex());
+    }
+
+    /**
+     * Method of removing the first request of the queue.
+     */
+    public void remove() {
+        headIndex();
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    private int headIndex() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue of requests is empty");
+        }
+        return head;
+    }
+}
@@ -2,10 +2,42 @@ package base;
 
 import enums.Names;
 import enums.Surnames;
+import enums.TypeWorkshop;
 
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Class of the mechanic, who is assigned to the home workshop and can be cross-trained for the work of other workshops.
+ */
 public class Mechanic extends Person {
 
-    public Mechanic() {
+    private TypeWorkshop home;
+    private EnumSet<TypeWorkshop> skills;
+    private double speed;  // relative speed of work, 1.0 - average mechanic
+
+    /**
+     * @param random generator of the workshop, which hires the mechanic
+     */
+    public Mechanic(TypeWorkshop home, Random random) {
+        this(home, 0.8 + random.nextInt(5) / 10.0); // range: 0.8..1.2
+    }
+
+    public Mechanic(TypeWorkshop home, double speed) {
+        this.home = home;
+        this.skills = EnumSet.of(home);
+        this.speed = speed;
+    }
+
+    /**
+     * Copy constructor, so that the staff can be cross-trained without changing the original mechanics.
+     */
+    public Mechanic(Mechanic mechanic) {
+        super(mechanic);
+        this.home = mechanic.home;
+        this.skills = EnumSet.copyOf(mechanic.skills);
+        this.speed = mechanic.speed;
     }
 
     @Override
@@ -17,4 +49,24 @@ public class Mechanic extends Person {
     public Surnames getSurname() {
         return super.getSurname();
     }
-}
\ No newline at end of file
+
+    public TypeWorkshop getHome() {
+        return home;
+    }
+
+    public Set<TypeWorkshop> getSkills() {
+        return skills;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void train(TypeWorkshop type) {
+        skills.add(type);
+    }
+
+    public boolean canRepair(TypeWorkshop type) {
+        return skills.contains(type);
+    }
+}
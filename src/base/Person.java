@@ -16,6 +16,11 @@ abstract class Person {
         this.surname = Surnames.values()[random.nextInt(Surnames.values().length)];
     }
 
+    Person(Person person) {
+        this.name = person.name;
+        this.surname = person.surname;
+    }
+
     public Names getName() {
         return name;
     }
@@ -6,10 +6,16 @@ public class Request {
 
     private Client client;
     private TypeWorkshop type;
+    private int time;  // minute of the work week, when the request arrived
 
     public Request(Client client, TypeWorkshop type) {
+        this(client, type, 0);
+    }
+
+    public Request(Client client, TypeWorkshop type, int time) {
         this.client = client;
         this.type = type;
+        this.time = time;
     }
 
     public Client getClient() {
@@ -19,5 +25,9 @@ public class Request {
     public TypeWorkshop getType() {
         return type;
     }
+
+    public int getTime() {
+        return time;
+    }
 }
 
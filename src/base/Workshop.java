@@ -2,6 +2,9 @@ package base;
 
 import enums.EmploymentRate;
 import enums.TypeWorkshop;
+import events.RequestEnqueuedEvent;
+import events.RequestLostEvent;
+import events.RequestServiceEvent;
 import service.CarService;
 
 import java.util.*;
@@ -20,8 +23,15 @@ public class Workshop extends Thread {
      */
     private static final int WEEK = 45600;
 
+    /**
+     * Minimum salary of the mechanic for the week.
+     */
+    public static final int MIN_SALARY = 7000;
+
     private CarService carService = CarService.getInstance();
-    private Queue<Request> requests = new LinkedList<>();
+    private Queue<Request> requests = CompactRequestQueue.isEnabled() ? null : new LinkedList<>();
+    private CompactRequestQueue compactRequests;
+    private List<Mechanic> mechanics = new ArrayList<>();
     private Random random = new Random();
 
     private TypeWorkshop type;
@@ -31,10 +41,10 @@ public class Workshop extends Thread {
     private int repair_time;
     private int difference_V;  // time difference from repair_time
 
-    private int allRequests;
-    private int completedRequests;
+    private volatile int allRequests;        // volatile - read by ProgressReporter without the lock
+    private volatile int completedRequests;
     private int lostRequests;
-    private long worktime;
+    private volatile long worktime;
     private long downtime;
     private int total;  // income from one workshop
     private int salary;
@@ -42,10 +52,14 @@ public class Workshop extends Thread {
 
     public Workshop(TypeWorkshop type, int repair_cost, int maxRepairTime, int difference_V) {
         this.type = type;
+        this.compactRequests = CompactRequestQueue.isEnabled() ? CompactRequestQueue.create(type) : null;
         this.number_of_mechanics = random.nextInt(6) + 2;
         this.repair_cost = repair_cost;
         this.maxRepairTime = maxRepairTime;
-        this.repair_time = maxRepairTime / number_of_mechanics;
+        for (int i = 0; i < number_of_mechanics; i++) {
+            mechanics.add(new Mechanic(type, random));
+        }
+        this.repair_time = repairTime(maxRepairTime, mechanics, number_of_mechanics);
         this.difference_V = difference_V;
         new Thread(this).start();
     }
@@ -55,17 +69,47 @@ public class Workshop extends Thread {
     }
 
     public synchronized void addRequest(Request request) {
-        requests.add(request);
+        if (compactRequests != null) {
+            compactRequests.add(request.getClient().getId(), request.getTime());
+        } else {
+            requests.add(request);
+        }
         allRequests++;
         notify();
+
+        RequestEnqueuedEvent event = new RequestEnqueuedEvent();
+        if (event.isEnabled()) {
+            event.workshop = type.name();
+            event.queueDepth = queueSize();
+            event.arrivalTime = request.getTime();
+            event.commit();
+        }
     }
 
     private void removeRequest() {
-        requests.poll();
+        if (compactRequests != null) {
+            if (!compactRequests.isEmpty()) compactRequests.remove();  // as poll() of the linked list
+        } else {
+            requests.poll();
+        }
     }
 
     private boolean checkIsEmpty() {
-        return requests.isEmpty();
+        return compactRequests != null ? compactRequests.isEmpty() : requests.isEmpty();
+    }
+
+    private int queueSize() {
+        return compactRequests != null ? compactRequests.size() : requests.size();
+    }
+
+    /**
+     * @return minute of the work week, when the first request of the queue arrived, or 0 if the queue is empty
+     */
+    private int firstRequestTime() {
+        if (checkIsEmpty()) {
+            return 0;
+        }
+        return compactRequests != null ? compactRequests.peekTime() : requests.peek().getTime();
     }
 
     @Override
@@ -75,8 +119,8 @@ public class Workshop extends Thread {
             try {
                 if ((System.currentTimeMillis() - initialTime) < (WEEK * 2)) { // workshop work (week) + generating requests
                     synchronized (this) {
-                        if (checkIsEmpty()) {
-                            wait();   // waiting for addRequest() method
+                        while (checkIsEmpty()) {
+                            wait();   // waiting for addRequest() method, also after a spurious wakeup
                         }
                         processing();
                     }
@@ -91,12 +135,24 @@ public class Workshop extends Thread {
     }
 
     private void processing() throws InterruptedException {
-        int tempV = (repair_time + generateDifferenceRepairTime()) * 10; // service time
+        RequestServiceEvent event = new RequestServiceEvent();
+        event.begin();
+
+        int tempV = (repair_time + differenceRepairTime(random, repair_time, difference_V)) * 10; // service time
         sleep(tempV);
 
         worktime += tempV;    // calculate the processing time
         total += repair_cost; // value of profit increases
         completedRequests++;  // indicate that the application has been processed
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.workshop = type.name();
+            event.queueDepth = queueSize();
+            event.arrivalTime = firstRequestTime();
+            event.serviceTime = tempV / 10;
+            event.commit();
+        }
         removeRequest();      // delete completed request
     }
 
@@ -105,11 +161,11 @@ public class Workshop extends Thread {
      *
      * @return the value for which the execution time differs
      */
-    private int generateDifferenceRepairTime() {
+    public static int differenceRepairTime(Random random, int repair_time, int difference_V) {
         if (random.nextInt(10) == 0) {  // chance = 10%
             if (random.nextInt(2) == 0) { // inc or dec
                 return random.nextInt(difference_V - 60) + 61;
-            } else {
+            } else if (repair_time > 1) {  // the shortest repair cannot be shortened
                 return -(random.nextInt(repair_time - 1) + 1);
             }
         }
@@ -121,7 +177,7 @@ public class Workshop extends Thread {
         if (worktime >= WEEK) worktime = WEEK; // if the workshop was busy all the time
 
         downtime = WEEK - worktime;
-        salary = payroll(total, number_of_mechanics);
+        salary = salary(total, number_of_mechanics);
         profit = total - salary * number_of_mechanics;
         carService.setTotal_number_of_mechanics(number_of_mechanics);
         carService.setTotal_allRequests(allRequests);
@@ -132,10 +188,15 @@ public class Workshop extends Thread {
     }
 
     private void getLostRequests() {
-        int allRequests = this.allRequests;
-        while (((allRequests - completedRequests) * repair_time) > (WEEK / 10)) {
-            allRequests--;
-            lostRequests++;
+        lostRequests = lostRequests(allRequests, completedRequests, repair_time);
+
+        RequestLostEvent event = new RequestLostEvent();
+        if (event.isEnabled()) {
+            event.workshop = type.name();
+            event.queueDepth = queueSize();
+            event.lostRequests = lostRequests;
+            event.lostIncome = lostRequests * repair_cost;
+            event.commit();
         }
     }
 
@@ -143,15 +204,51 @@ public class Workshop extends Thread {
         return number_of_mechanics;
     }
 
+    public List<Mechanic> getMechanics() {
+        return mechanics;
+    }
+
     /**
-     * Method for calculating the wages of mechanics.
+     * Method for estimating the number of requests, which will not be served: those, for which the rest of the queue
+     * does not fit into one more week of work.
      */
-    private int payroll(int total, int number_of_mechanics) {
-        if ((((total / 100) * 35) / number_of_mechanics) > 7000) {
-            return ((total / 100) * 35) / number_of_mechanics;
-        } else {
-            return 7000;
+    public static int lostRequests(int allRequests, int completedRequests, int repair_time) {
+        int lostRequests = 0;
+        while (((allRequests - completedRequests) * repair_time) > (WEEK / 10)) {
+            allRequests--;
+            lostRequests++;
+        }
+        return lostRequests;
+    }
+
+    /**
+     * Method for calculating the fixed repair time, when the given number of mechanics jointly repair the car.
+     * Mechanics are taken in the order of the list, the missing ones are average mechanics (speed 1.0).
+     */
+    public static int repairTime(int maxRepairTime, List<Mechanic> mechanics, int number_of_mechanics) {
+        double speed = 0;
+        for (int i = 0; i < number_of_mechanics; i++) {
+            speed += i < mechanics.size() ? mechanics.get(i).getSpeed() : 1.0;
         }
+        return (int) (maxRepairTime / speed);
+    }
+
+    /**
+     * Method for calculating the wages of all mechanics: 35% of the income, but not less than {@link #MIN_SALARY}
+     * for the week of each mechanic. Mechanics who worked only part of the week are paid for that part.
+     *
+     * @param total      income of the workshop
+     * @param staffWeeks number of mechanics, who would work the same time for the whole week
+     */
+    public static int payroll(int total, double staffWeeks) {
+        return (int) Math.max((total / 100) * 35, MIN_SALARY * staffWeeks);
+    }
+
+    /**
+     * Method for calculating the salary of one mechanic, when all mechanics worked the whole week.
+     */
+    public static int salary(int total, int number_of_mechanics) {
+        return payroll(total, number_of_mechanics) / number_of_mechanics;
     }
 
     /**
@@ -188,9 +285,9 @@ public class Workshop extends Thread {
         }
     }
 
-    public void showProcess_Workshop() {
-        System.out.print("\u23FA Workshop - \u00AB" + type + "\u00BB: " + allRequests + " \u27A0 " + completedRequests +
-                " \u26AF " + (averageRepairTime() / 10) + " min." + " \u27A0 " + employmentRate() + "\n");
+    public String expressProcess_Workshop() {
+        return "\u23FA Workshop - \u00AB" + type + "\u00BB: " + allRequests + " \u27A0 " + completedRequests +
+                " \u26AF " + (averageRepairTime() / 10) + " min." + " \u27A0 " + employmentRate() + "\n";
     }
 
     public void showStatistics_Workshop() {
@@ -244,16 +341,11 @@ public class Workshop extends Thread {
 
             /* Calculation of the necessary number of mechanics that would not be unserved requests */
             while (lostRequests > 0 & number_of_mechanics <= 7) {
-                int repair_time = maxRepairTime / ++number_of_mechanics; // new estimated repair time
+                int repair_time = repairTime(maxRepairTime, mechanics, ++number_of_mechanics);  // new estimated repair time
                 int completedRequests = (WEEK / 10) / repair_time;       // new number of requests served
 
                 /* Counting unserved requests */
-                int allRequests = this.allRequests;
-                lostRequests = 0;
-                while (((allRequests - completedRequests) * repair_time) > (WEEK / 10)) {
-                    allRequests--;
-                    lostRequests++;
-                }
+                lostRequests = lostRequests(allRequests, completedRequests, repair_time);
             }
             resultStr.append("\t\u23FA It is necessary to increase the number of mechanics on: ").append(number_of_mechanics - this.number_of_mechanics).
                     append("\n\t   \u27A5 Number of mechanics will be: ").append(number_of_mechanics).
@@ -281,7 +373,7 @@ public class Workshop extends Thread {
             int repair_time = this.repair_time;
             int average_repair_time = (WEEK / 10) / allRequests;  // new estimated average service time
             while ((average_repair_time >= repair_time) & (number_of_mechanics >= 2)) {
-                repair_time = maxRepairTime / --number_of_mechanics;
+                repair_time = repairTime(maxRepairTime, mechanics, --number_of_mechanics);
             }
 
             if (number_of_mechanics == this.number_of_mechanics) {
@@ -1,5 +1,30 @@
 package enums;
 
 public enum TypeWorkshop {
-    Vehicle_inspection, Tire_fitting, Body_repair, Engine_repair
+    Vehicle_inspection(1500, 420, 360),
+    Tire_fitting(3000, 560, 720),
+    Body_repair(4500, 770, 1080),
+    Engine_repair(7500, 910, 1440);
+
+    private final int repair_cost;
+    private final int maxRepairTime;  // repair time of one mechanic, min.
+    private final int difference_V;   // time difference from repair_time
+
+    TypeWorkshop(int repair_cost, int maxRepairTime, int difference_V) {
+        this.repair_cost = repair_cost;
+        this.maxRepairTime = maxRepairTime;
+        this.difference_V = difference_V;
+    }
+
+    public int getRepair_cost() {
+        return repair_cost;
+    }
+
+    public int getMaxRepairTime() {
+        return maxRepairTime;
+    }
+
+    public int getDifference_V() {
+        return difference_V;
+    }
 }
@@ -0,0 +1,24 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of JDK Flight Recorder: writing of one of the report files of the car service.
+ */
+@Name("carservice.ReportWrite")
+@Label("Report Write")
+@Category("Car Service")
+@Description("Writing of the report file of the car service")
+@Enabled(false)
+@StackTrace(false)
+public class ReportWriteEvent extends Event {
+
+    @Label("File")
+    public String file;
+}
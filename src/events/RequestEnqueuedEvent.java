@@ -0,0 +1,32 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of JDK Flight Recorder: the request is put in the queue of the workshop.
+ */
+@Name("carservice.RequestEnqueued")
+@Label("Request Enqueued")
+@Category({"Car Service", "Workshop"})
+@Description("Request is put in the queue of the workshop")
+@Enabled(false)
+@StackTrace(false)
+public class RequestEnqueuedEvent extends Event {
+
+    @Label("Workshop")
+    public String workshop;
+
+    @Label("Queue Depth")
+    @Description("Requests in the queue, including this one")
+    public int queueDepth;
+
+    @Label("Arrival Time")
+    @Description("Minute of the work week, when the request arrived")
+    public int arrivalTime;
+}
@@ -0,0 +1,34 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of JDK Flight Recorder: requests, which the workshop will not serve until the end of the week.
+ */
+@Name("carservice.RequestLost")
+@Label("Requests Lost")
+@Category({"Car Service", "Workshop"})
+@Description("Requests, which the workshop will not serve until the end of the week")
+@Enabled(false)
+@StackTrace(false)
+public class RequestLostEvent extends Event {
+
+    @Label("Workshop")
+    public String workshop;
+
+    @Label("Queue Depth")
+    @Description("Requests left in the queue at the end of the week")
+    public int queueDepth;
+
+    @Label("Lost Requests")
+    public int lostRequests;
+
+    @Label("Lost Income")
+    public int lostIncome;
+}
@@ -0,0 +1,29 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of JDK Flight Recorder: sending of the requests of one client to the workshops.
+ */
+@Name("carservice.RequestRouting")
+@Label("Request Routing")
+@Category("Car Service")
+@Description("Sending of the requests of one client to the workshops, including waiting for their locks")
+@Enabled(false)
+@StackTrace(false)
+public class RequestRoutingEvent extends Event {
+
+    @Label("Services")
+    @Description("Number of requests of the client")
+    public int services;
+
+    @Label("Arrival Time")
+    @Description("Minute of the work week, when the client arrived")
+    public int arrivalTime;
+}
@@ -0,0 +1,36 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of JDK Flight Recorder: repair of one request, from the beginning to the end of the service.
+ */
+@Name("carservice.RequestService")
+@Label("Request Service")
+@Category({"Car Service", "Workshop"})
+@Description("Repair of one request in the workshop")
+@Enabled(false)
+@StackTrace(false)
+public class RequestServiceEvent extends Event {
+
+    @Label("Workshop")
+    public String workshop;
+
+    @Label("Queue Depth")
+    @Description("Requests in the queue at the beginning of the service, including this one")
+    public int queueDepth;
+
+    @Label("Arrival Time")
+    @Description("Minute of the work week, when the request arrived")
+    public int arrivalTime;
+
+    @Label("Service Time")
+    @Description("Time of the repair in minutes of the simulation")
+    public int serviceTime;
+}
@@ -0,0 +1,183 @@
+package farm;
+
+import service.CarService;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coordinator of the replication farm. It splits the sweep over the cross-training of the staff into tasks,
+ * starts several worker JVMs {@link Worker} connected by loopback sockets, and merges their results as they come.
+ * Each worker has its own heap and garbage collector, so the sweep is not limited by one JVM.
+ * <p>
+ * If the worker crashes or does not answer in time, its unfinished tasks are returned to the queue
+ * and are done by the other workers. The time in milliseconds is set by the property {@code -Dcarservice.farm.timeout}.
+ */
+public class Coordinator {
+
+    private static final int WINDOW = 2;   // tasks sent to one worker without waiting for results
+    private static final int BATCH = 25;   // weeks in one task
+    private static final int WEEK_TIMEOUT = 1000;  // ms, one simulated week usually takes about a millisecond
+
+    private CarService carService = CarService.getInstance();
+    private LinkedBlockingDeque<ReplicationTask> pending = new LinkedBlockingDeque<>();
+    private Map<Integer, ReplicationResult> summaries = new TreeMap<>();  // by number of additional skills
+    private AtomicInteger alive = new AtomicInteger();
+    private int timeout = Integer.getInteger("carservice.farm.timeout", WEEK_TIMEOUT * BATCH * WINDOW);
+    private CountDownLatch remaining;
+    private int workers;
+
+    public Coordinator(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Method of running the sweep: every number of additional skills from 0 to {@code maxSkills}
+     * is simulated on the same weeks, so the results can be compared directly.
+     *
+     * @param weeks     number of simulated weeks for each number of skills
+     * @param maxSkills maximum number of additional workshops for each mechanic
+     * @param seed      seed of the first week
+     * @return a string representation of the average results
+     * @throws IOException          if workers can not be started or all of them have failed
+     * @throws InterruptedException if thread interrupted
+     */
+    public String expressSweep(int weeks, int maxSkills, long seed) throws IOException, InterruptedException {
+        int id = 0;
+        for (int skills = 0; skills <= maxSkills; skills++) {
+            summaries.put(skills, new ReplicationResult(-1, skills, 0));
+            for (int week = 0; week < weeks; week += BATCH) {
+                pending.add(new ReplicationTask(id++, skills, seed + week, Math.min(BATCH, weeks - week)));
+            }
+        }
+        remaining = new CountDownLatch(id);
+
+        List<Process> processes = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            for (int i = 0; i < workers; i++) {
+                processes.add(spawn(server.getLocalPort()));
+            }
+
+            server.setSoTimeout(30000);
+            for (int i = 1; i <= workers; i++) {
+                try {
+                    Socket socket = server.accept();
+                    int number = i;
+                    alive.incrementAndGet();
+                    new Thread(() -> serve(socket, number), "Worker-" + number).start();
+                } catch (SocketTimeoutException e) {
+                    System.out.println("Not all workers have connected: " + e);
+                    break;
+                }
+            }
+
+            while (!remaining.await(1, TimeUnit.SECONDS)) {
+                if (alive.get() == 0) {
+                    throw new IOException("All workers have failed, tasks left: " + remaining.getCount());
+                }
+            }
+        } finally {
+            for (Process process : processes) {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+        return expressSummaries(weeks);
+    }
+
+    private Process spawn(int port) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), Worker.class.getName(),
+                InetAddress.getLoopbackAddress().getHostAddress(), String.valueOf(port)).inheritIO().start();
+    }
+
+    /**
+     * Method of the dialogue with one worker: keeps up to {@link #WINDOW} tasks sent to it,
+     * merges the results and, on the connection failure, returns the sent tasks to the queue.
+     */
+    private void serve(Socket socket, int number) {
+        Deque<ReplicationTask> inFlight = new ArrayDeque<>();
+        try (Socket s = socket) {
+            s.setTcpNoDelay(true);
+            s.setSoTimeout(timeout);  // a hung worker fails like a crashed one
+            DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+            Protocol.readHello(in);
+
+            while (remaining.getCount() > 0) {
+                ReplicationTask task = inFlight.size() < WINDOW ?
+                        pending.poll(inFlight.isEmpty() ? 100 : 0, TimeUnit.MILLISECONDS) : null;
+                if (task != null) {
+                    Protocol.writeTask(out, task);
+                    inFlight.add(task);
+                } else if (!inFlight.isEmpty()) {
+                    ReplicationResult result = Protocol.readResult(in);
+                    inFlight.removeIf(sent -> sent.getId() == result.getId());
+                    merge(result, number);
+                }
+            }
+            Protocol.writeShutdown(out);
+        } catch (IOException e) {
+            System.out.println("Worker #" + number + " has failed: " + e);
+        } catch (InterruptedException e) {
+            System.out.println("Thread interrupted: " + e);
+        } finally {
+            if (!inFlight.isEmpty()) {  // the tasks are finished by other workers
+                for (ReplicationTask task : inFlight) {
+                    pending.addFirst(task);
+                }
+                System.out.println("Worker #" + number + ": tasks returned to the queue: " + inFlight.size());
+            }
+            alive.decrementAndGet();
+        }
+    }
+
+    private synchronized void merge(ReplicationResult result, int number) {
+        summaries.get(result.getSkills()).merge(result);
+        remaining.countDown();
+        System.out.println("\u23FA Worker #" + number + ": task " + result.getId() + " \u27A0 +" + result.getSkills() +
+                " skills, " + result.getWeeks() + " weeks; tasks left: " + remaining.getCount());
+    }
+
+    private synchronized String expressSummaries(int weeks) {
+        StringBuilder resultStr = new StringBuilder();
+        resultStr.append("\n").append(carService.dividingLine()).append("\n");
+        resultStr.append("     <<< Replication farm: ").append(workers).append(" workers, ").append(weeks).append(" weeks >>>\n");
+        resultStr.append(carService.dividingLine()).append("\n");
+
+        resultStr.append(String.format("\t  %-24s", "Additional skills:"));
+        for (int skills : summaries.keySet()) {
+            resultStr.append(String.format("%12d", skills));
+        }
+        resultStr.append("\n");
+
+        for (int i = 0; i < ReplicationResult.NAMES.length; i++) {
+            resultStr.append(String.format("\t\u23FA %-24s", ReplicationResult.NAMES[i] + ":"));
+            for (ReplicationResult summary : summaries.values()) {
+                resultStr.append(String.format(Locale.ENGLISH, "%12.1f", summary.average(i)));
+            }
+            resultStr.append("\n");
+        }
+        return String.valueOf(resultStr.append(carService.dividingLine()));
+    }
+}
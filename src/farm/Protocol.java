@@ -0,0 +1,81 @@
+package farm;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Binary protocol between the coordinator {@link Coordinator} and workers {@link Worker}.
+ * Every message begins with one byte of its kind, followed by fixed fields in the order of the methods below:
+ * <pre>
+ *   HELLO    worker -> coordinator   int version
+ *   TASK     coordinator -> worker   int id, int skills, long seed, int weeks
+ *   RESULT   worker -> coordinator   int id, int skills, int weeks, 6 * long sums
+ *   SHUTDOWN coordinator -> worker
+ * </pre>
+ */
+final class Protocol {
+
+    static final int VERSION = 1;
+
+    static final byte HELLO = 1;
+    static final byte TASK = 2;
+    static final byte RESULT = 3;
+    static final byte SHUTDOWN = 4;
+
+    private Protocol() {
+    }
+
+    static void writeHello(DataOutputStream out) throws IOException {
+        out.writeByte(HELLO);
+        out.writeInt(VERSION);
+        out.flush();
+    }
+
+    static void readHello(DataInputStream in) throws IOException {
+        if (in.readByte() != HELLO || in.readInt() != VERSION) {
+            throw new IOException("Unknown worker protocol");
+        }
+    }
+
+    static void writeTask(DataOutputStream out, ReplicationTask task) throws IOException {
+        out.writeByte(TASK);
+        out.writeInt(task.getId());
+        out.writeInt(task.getSkills());
+        out.writeLong(task.getSeed());
+        out.writeInt(task.getWeeks());
+        out.flush();
+    }
+
+    static ReplicationTask readTask(DataInputStream in) throws IOException {
+        return new ReplicationTask(in.readInt(), in.readInt(), in.readLong(), in.readInt());
+    }
+
+    static void writeResult(DataOutputStream out, ReplicationResult result) throws IOException {
+        out.writeByte(RESULT);
+        out.writeInt(result.getId());
+        out.writeInt(result.getSkills());
+        out.writeInt(result.getWeeks());
+        for (long sum : result.getSums()) {
+            out.writeLong(sum);
+        }
+        out.flush();
+    }
+
+    static ReplicationResult readResult(DataInputStream in) throws IOException {
+        if (in.readByte() != RESULT) {
+            throw new IOException("Result expected");
+        }
+        ReplicationResult result = new ReplicationResult(in.readInt(), in.readInt(), in.readInt());
+        long[] sums = result.getSums();
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] = in.readLong();
+        }
+        return result;
+    }
+
+    static void writeShutdown(DataOutputStream out) throws IOException {
+        out.writeByte(SHUTDOWN);
+        out.flush();
+    }
+}
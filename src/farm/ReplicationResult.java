@@ -0,0 +1,60 @@
+package farm;
+
+import processes.SchedulerReport;
+
+/**
+ * Aggregated results of the simulated weeks: only sums are sent, so the message has a fixed small size
+ * and results of different workers are merged by simple addition.
+ */
+class ReplicationResult {
+
+    static final String[] NAMES = {"Serviced requests", "Not served requests", "Stolen requests",
+            "Time of stay p95, min.", "Time of stay p99, min.", "Net profit, \u20B4"};
+
+    private int id;
+    private int skills;
+    private int weeks;
+    private long[] sums = new long[NAMES.length];
+
+    ReplicationResult(int id, int skills, int weeks) {
+        this.id = id;
+        this.skills = skills;
+        this.weeks = weeks;
+    }
+
+    void add(SchedulerReport report) {
+        sums[0] += report.getCompletedRequests();
+        sums[1] += report.getLostRequests();
+        sums[2] += report.getStolenRequests();
+        sums[3] += report.percentile(0.95);
+        sums[4] += report.percentile(0.99);
+        sums[5] += report.getProfit();
+    }
+
+    void merge(ReplicationResult result) {
+        weeks += result.weeks;
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] += result.sums[i];
+        }
+    }
+
+    double average(int index) {
+        return weeks == 0 ? 0 : (double) sums[index] / weeks;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getSkills() {
+        return skills;
+    }
+
+    int getWeeks() {
+        return weeks;
+    }
+
+    long[] getSums() {
+        return sums;
+    }
+}
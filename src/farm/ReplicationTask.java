@@ -0,0 +1,35 @@
+package farm;
+
+/**
+ * Task for the worker: to simulate several weeks in a row with the given cross-training of the staff.
+ */
+class ReplicationTask {
+
+    private int id;
+    private int skills;  // additional workshops for each mechanic, 0 - dedicated staff
+    private long seed;   // seed of the first week, next weeks use seed + 1, seed + 2, ...
+    private int weeks;
+
+    ReplicationTask(int id, int skills, long seed, int weeks) {
+        this.id = id;
+        this.skills = skills;
+        this.seed = seed;
+        this.weeks = weeks;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getSkills() {
+        return skills;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    int getWeeks() {
+        return weeks;
+    }
+}
@@ -0,0 +1,62 @@
+package farm;
+
+import base.Mechanic;
+import processes.ArrivalStream;
+import processes.WorkStealingScheduler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.List;
+
+/**
+ * Worker of the replication farm: a separate JVM, which connects to the coordinator {@link Coordinator},
+ * simulates the received tasks independently of other workers and sends back only aggregated results.
+ * <p>
+ * Usage: {@code java farm.Worker <host> <port>}
+ */
+public class Worker {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java farm.Worker <host> <port>");
+            return;
+        }
+        try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            Protocol.writeHello(out);
+            while (true) {
+                byte kind = in.readByte();
+                if (kind == Protocol.SHUTDOWN) {
+                    break;
+                } else if (kind != Protocol.TASK) {
+                    throw new IOException("Unknown message: " + kind);
+                }
+                Protocol.writeResult(out, simulate(Protocol.readTask(in)));
+            }
+        }
+    }
+
+    /**
+     * Method of simulation of all weeks of the task, week {@code i} uses seed {@code task.seed + i}
+     * for the stream of requests, the staff and the repair time, as in the {@link processes.CrossTrainingExperiment}.
+     */
+    static ReplicationResult simulate(ReplicationTask task) {
+        ReplicationResult result = new ReplicationResult(task.getId(), task.getSkills(), task.getWeeks());
+        for (int i = 0; i < task.getWeeks(); i++) {
+            long seed = task.getSeed() + i;
+            List<Mechanic> staff = WorkStealingScheduler.hireStaff(seed);
+            if (task.getSkills() > 0) {
+                staff = WorkStealingScheduler.crossTrain(staff, task.getSkills(), seed);
+            }
+            result.add(new WorkStealingScheduler(ArrivalStream.generate(seed), staff, seed).run());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package processes;
+
+import base.Mechanic;
+import enums.TypeWorkshop;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class of the recorded stream of requests for one work week, ordered by the time of arrival.
+ * The stream is generated on the same schedule as {@link GenerateRequests}, but without waiting in real time,
+ * so that different models of the car service can be compared on the same traffic.
+ * The stream of the real-time run is recorded by {@link service.CarService} to the file "Arrivals.bin"
+ * together with the staff of its workshops, so that the run can be repeated with the same mechanics.
+ */
+public class ArrivalStream {
+
+    private static final int MAGIC = 0x43534152;  // "CSAR", the first bytes of the file
+    private static final int VERSION = 2;         // 1 - without header and staff, 2 - with the staff
+    private static final TypeWorkshop[] TYPES = TypeWorkshop.values();
+
+    private int size;
+    private int[] times = new int[256];     // minute of the work week
+    private int[] clients = new int[256];   // number of the client in the stream
+    private byte[] types = new byte[256];   // ordinal of the type of workshop
+    private List<Mechanic> staff = new ArrayList<>();  // staff of the recorded run, empty for the generated stream
+
+    /**
+     * Method of generating the stream of requests for one work week.
+     *
+     * @param seed initial value of the random number generator, the same seed gives the same stream
+     * @return generated stream of requests
+     */
+    public static ArrivalStream generate(long seed) {
+        ArrivalStream stream = new ArrivalStream();
+        Random random = new Random(seed);
+        List<TypeWorkshop> services = new ArrayList<>(Arrays.asList(TYPES));
+
+        int client = 0;
+        int offset = 0;
+        for (int day = 1; day <= 7; day++) {
+            int length = GenerateRequests.dayLength(day);
+            for (int minute = 0, step; minute <= length; minute += step) {
+                step = GenerateRequests.nextStep(random, day, minute);
+                Collections.shuffle(services, random);
+                int number = GenerateRequests.numberOfServices(random);
+                for (int i = 0; i < number; i++) {
+                    stream.add(offset + minute, client, services.get(i));
+                }
+                client++;
+            }
+            offset += length;
+        }
+        return stream;
+    }
+
+    /**
+     * Method of reading the stream, written by {@link #write(String)}.
+     * The file of the first version has no header and begins with the number of requests, it has no staff.
+     *
+     * @throws IOException if file read error or the version of the file is unknown
+     */
+    public static ArrivalStream read(String file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            ArrivalStream stream = new ArrivalStream();
+            int first = in.readInt();
+            int version = first == MAGIC ? in.readInt() : 1;
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unknown version of the file " + file + ": " + version);
+            }
+            int size = version == 1 ? first : in.readInt();
+            for (int i = 0; i < size; i++) {
+                stream.add(in.readInt(), in.readInt(), TYPES[in.readByte()]);
+            }
+            if (version >= 2) {
+                int mechanics = in.readInt();
+                for (int i = 0; i < mechanics; i++) {
+                    stream.staff.add(new Mechanic(TYPES[in.readByte()], in.readDouble()));
+                }
+            }
+            return stream;
+        }
+    }
+
+    /**
+     * Method of writing the stream to the file: header (magic number and version), number of requests,
+     * then time, client and type of each request, then number of mechanics, home workshop and speed of each mechanic.
+     *
+     * @throws IOException if file write error
+     */
+    public void write(String file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeInt(times[i]);
+                out.writeInt(clients[i]);
+                out.writeByte(types[i]);
+            }
+            out.writeInt(staff.size());
+            for (Mechanic mechanic : staff) {
+                out.writeByte(mechanic.getHome().ordinal());
+                out.writeDouble(mechanic.getSpeed());
+            }
+        }
+    }
+
+    /**
+     * @return the stream of requests only for one workshop
+     */
+    public ArrivalStream only(TypeWorkshop type) {
+        ArrivalStream stream = new ArrivalStream();
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type.ordinal()) {
+                stream.add(times[i], clients[i], type);
+            }
+        }
+        return stream;
+    }
+
+    public void add(int time, int client, TypeWorkshop type) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            clients = Arrays.copyOf(clients, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+        }
+        times[size] = time;
+        clients[size] = client;
+        types[size] = (byte) type.ordinal();
+        size++;
+    }
+
+    /**
+     * Method of recording the mechanic of the run, only his home workshop and speed are kept.
+     */
+    public void addMechanic(Mechanic mechanic) {
+        staff.add(new Mechanic(mechanic.getHome(), mechanic.getSpeed()));
+    }
+
+    /**
+     * @return staff of the recorded run, empty list if the stream was generated
+     */
+    public List<Mechanic> getStaff() {
+        return staff;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getTime(int index) {
+        return times[index];
+    }
+
+    public int getClient(int index) {
+        return clients[index];
+    }
+
+    public TypeWorkshop getType(int index) {
+        return TYPES[types[index]];
+    }
+}
@@ -0,0 +1,73 @@
+package processes;
+
+import base.Mechanic;
+import service.CarService;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class of the experiment, which compares the staff, hired separately for each workshop,
+ * with the same staff after cross-training, on the same streams of requests.
+ */
+public class CrossTrainingExperiment {
+
+    private CarService carService = CarService.getInstance();
+
+    private int replications;
+    private int breadth;
+    private long seed;
+
+    /**
+     * @param replications number of simulated weeks
+     * @param breadth      number of additional workshops for each mechanic
+     * @param seed         initial value of the random number generator
+     */
+    public CrossTrainingExperiment(int replications, int breadth, long seed) {
+        this.replications = replications;
+        this.breadth = breadth;
+        this.seed = seed;
+    }
+
+    /**
+     * Method of running of the experiment and presenting the average results of both models.
+     */
+    public String expressComparison() {
+        double[] dedicated = new double[6];
+        double[] crossTrained = new double[6];
+
+        for (int i = 0; i < replications; i++) {
+            ArrivalStream arrivals = ArrivalStream.generate(seed + i);
+            List<Mechanic> staff = WorkStealingScheduler.hireStaff(seed + i);
+
+            accumulate(dedicated, new WorkStealingScheduler(arrivals, staff, seed + i).run());
+            accumulate(crossTrained, new WorkStealingScheduler(arrivals,
+                    WorkStealingScheduler.crossTrain(staff, breadth, seed + i), seed + i).run());
+        }
+
+        return "\n" + carService.dividingLine() + "\n" +
+                "     <<< Cross-training: " + replications + " weeks, +" + breadth + " skills per mechanic >>>\n" +
+                carService.dividingLine() + "\n" +
+                String.format("\t  %-24s %12s \u27A0 %s%n", "", "dedicated", "cross-trained") +
+                expressLine("Serviced requests", dedicated[0], crossTrained[0]) +
+                expressLine("Not served requests", dedicated[1], crossTrained[1]) +
+                expressLine("Stolen requests", dedicated[2], crossTrained[2]) +
+                expressLine("Time of stay p95, min.", dedicated[3], crossTrained[3]) +
+                expressLine("Time of stay p99, min.", dedicated[4], crossTrained[4]) +
+                expressLine("Net profit, \u20B4", dedicated[5], crossTrained[5]) +
+                carService.dividingLine();
+    }
+
+    private void accumulate(double[] values, SchedulerReport report) {
+        values[0] += (double) report.getCompletedRequests() / replications;
+        values[1] += (double) report.getLostRequests() / replications;
+        values[2] += (double) report.getStolenRequests() / replications;
+        values[3] += (double) report.percentile(0.95) / replications;
+        values[4] += (double) report.percentile(0.99) / replications;
+        values[5] += (double) report.getProfit() / replications;
+    }
+
+    private String expressLine(String name, double dedicated, double crossTrained) {
+        return String.format(Locale.ENGLISH, "\t\u23FA %-24s %12.1f \u27A0 %.1f%n", name + ":", dedicated, crossTrained);
+    }
+}
@@ -26,33 +26,23 @@ public class GenerateRequests {
     }
 
     /**
-     * Method to create an array of requests {@link #createArrayRequests()} and send this array for further processing.
+     * Method to create an array of requests {@link #createArrayRequests(int)} and send this array for further processing.
      *
+     * @param time minute of the work week, when the client arrived
      * @throws IOException if file write error
      */
-    private void createAndSendRequests() throws IOException {
-        Request[] requests = createArrayRequests();
-
-        int tempV = random.nextInt(100) + 1; // range: 1..100
-        if (tempV == 100) {       // 1%
-            requests = Arrays.copyOfRange(requests, 0, 4);
-        } else if (tempV >= 95) { // 5%
-            requests = Arrays.copyOfRange(requests, 0, 3);
-        } else if (tempV >= 85) { // 10%
-            requests = Arrays.copyOfRange(requests, 0, 2);
-        } else {                  // 85%
-            requests = Arrays.copyOfRange(requests, 0, 1);
-        }
-
+    private void createAndSendRequests(int time) throws IOException {
+        Request[] requests = createArrayRequests(time);
+        requests = Arrays.copyOfRange(requests, 0, numberOfServices(random));
         carService.receivingAndSendingRequests(requests);
     }
 
-    private Request[] createArrayRequests() {
+    private Request[] createArrayRequests(int time) {
         Client client = new Client();
         Request[] requests = new Request[4];
 
         for (int i = 0; i < requests.length; i++) {
-            requests[i] = new Request(client, TypeWorkshop.values()[i]);
+            requests[i] = new Request(client, TypeWorkshop.values()[i], time);
         }
 
         shuffleArray(requests);
@@ -72,32 +62,51 @@ public class GenerateRequests {
      * @throws IOException          if file write error
      */
     public void randomize() throws InterruptedException, IOException {
+        int offset = 0;  // beginning of the current day in the work week
         for (int day = 1; day <= 7; day++) {
-            int step;
-
-            if (day <= 5) {  // for weekdays
-                for (int minute = 0; minute <= WEEKDAY; minute += step) {
-                    if (minute <= 270 | minute >= 450) {
-                        step = random.nextInt(31) + 30;
-                    } else {    /* середина дня (заявки поступают чаще) */
-                        step = random.nextInt(16) + 15;
-                    }
-                    createAndSendRequests();
-                    Thread.sleep(step * 10);
-                }
-            } else {  // for off days
-                for (int minute = 0; minute <= OFFDAY; minute += step) {
-                    if (minute <= 180 | minute >= 300) {
-                        step = random.nextInt(31) + 30;
-                    } else {
-                        step = random.nextInt(16) + 15;
-                    }
-                    createAndSendRequests();
-                    Thread.sleep(step * 10);
-                }
+            int length = dayLength(day);
+            for (int minute = 0, step; minute <= length; minute += step) {
+                step = nextStep(random, day, minute);
+                createAndSendRequests(offset + minute);
+                Thread.sleep(step * 10);
             }
+            offset += length;
         }
         carService.setSignal(false); // complete requests generation
     }
 
+    /**
+     * Method for finding the length of the working day: on weekdays is 12 hours, and on weekends - 8 hours.
+     */
+    static int dayLength(int day) {
+        return day <= 5 ? WEEKDAY : OFFDAY;
+    }
+
+    /**
+     * Method of generating the interval until the next client; in the middle of the day, clients come more often.
+     */
+    static int nextStep(Random random, int day, int minute) {
+        boolean middle = day <= 5 ? (minute > 270 & minute < 450) : (minute > 180 & minute < 300);
+        if (middle) {  /* середина дня (заявки поступают чаще) */
+            return random.nextInt(16) + 15;
+        }
+        return random.nextInt(31) + 30;
+    }
+
+    /**
+     * Method of generating the number of services required by one client.
+     */
+    static int numberOfServices(Random random) {
+        int tempV = random.nextInt(100) + 1; // range: 1..100
+        if (tempV == 100) {       // 1%
+            return 4;
+        } else if (tempV >= 95) { // 5%
+            return 3;
+        } else if (tempV >= 85) { // 10%
+            return 2;
+        } else {                  // 85%
+            return 1;
+        }
+    }
+
 }
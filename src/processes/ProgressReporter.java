@@ -0,0 +1,39 @@
+package processes;
+
+import service.CarService;
+
+/**
+ * Class of visualization of the progress of the car service on the console.
+ * Instead of printing after every client, it shows the summary of all workshops once in the set interval
+ * in its own thread, so the console does not slow down the generation of requests.
+ * <p>
+ * The interval in milliseconds is set by the property {@code -Dcarservice.progress}, value 0 turns the output off.
+ */
+public class ProgressReporter implements Runnable {
+
+    private CarService carService = CarService.getInstance();
+    private long interval = Long.getLong("carservice.progress", 1000);
+
+    public ProgressReporter() {
+        if (interval > 0) {
+            Thread thread = new Thread(this, "ProgressReporter");
+            thread.setDaemon(true);  // does not keep the program alive
+            thread.start();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (carService.getSignal()) {
+                Thread.sleep(interval);
+                if (carService.getSignal()) {
+                    System.out.print(carService.expressProcesses()); // the whole summary in one call
+                }
+            }
+            System.out.print(carService.expressProcesses());  // final summary, with the progress after the last interval
+        } catch (InterruptedException e) {
+            System.out.println("Thread interrupted: " + e);
+        }
+    }
+}
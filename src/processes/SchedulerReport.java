@@ -0,0 +1,151 @@
+package processes;
+
+import base.Workshop;
+import enums.TypeWorkshop;
+
+import java.util.Arrays;
+
+/**
+ * Class of the statistical data collected by {@link WorkStealingScheduler} for one simulated work week.
+ * Time of stay of the request in the car service (waiting + repair) is kept for each served request,
+ * so that not only the average, but also the "tail" values can be found.
+ */
+public class SchedulerReport {
+
+    private static final TypeWorkshop[] TYPES = TypeWorkshop.values();
+
+    private long[] staffTime = new long[TYPES.length];       // minutes worked by mechanics of each workshop
+    private int[] allRequests = new int[TYPES.length];
+    private int[] completedRequests = new int[TYPES.length];
+    private int[] lostRequests = new int[TYPES.length];
+    private int[] stolenRequests = new int[TYPES.length];  // served by mechanics of other workshops
+    private int[] total = new int[TYPES.length];           // income from one workshop
+    private int[] hiringCost = new int[TYPES.length];      // cost of the mechanics, hired during the week
+
+    private int[] times = new int[256];  // time of stay of each served request, min.
+    private int served;
+    private boolean sorted;
+
+    void staff(TypeWorkshop type, long minutes) {
+        staffTime[type.ordinal()] += minutes;
+    }
+
+    void recruit(TypeWorkshop type, int cost) {
+        hiringCost[type.ordinal()] += cost;
+    }
+
+    void arrive(TypeWorkshop type) {
+        allRequests[type.ordinal()]++;
+    }
+
+    void complete(TypeWorkshop type, int repair_cost, int time, boolean stolen) {
+        completedRequests[type.ordinal()]++;
+        total[type.ordinal()] += repair_cost;
+        if (stolen) stolenRequests[type.ordinal()]++;
+
+        if (served == times.length) times = Arrays.copyOf(times, served * 2);
+        times[served++] = time;
+        sorted = false;
+    }
+
+    void lose(TypeWorkshop type, int number) {
+        lostRequests[type.ordinal()] += number;
+    }
+
+    public int getAllRequests() {
+        return sum(allRequests);
+    }
+
+    public int getCompletedRequests() {
+        return sum(completedRequests);
+    }
+
+    public int getCompletedRequests(TypeWorkshop type) {
+        return completedRequests[type.ordinal()];
+    }
+
+    public int getLostRequests() {
+        return sum(lostRequests);
+    }
+
+    public int getLostRequests(TypeWorkshop type) {
+        return lostRequests[type.ordinal()];
+    }
+
+    public int getAllRequests(TypeWorkshop type) {
+        return allRequests[type.ordinal()];
+    }
+
+    public int getStolenRequests() {
+        return sum(stolenRequests);
+    }
+
+    public int getTotal() {
+        return sum(total);
+    }
+
+    public int getHiringCost() {
+        return sum(hiringCost);
+    }
+
+    /**
+     * @return number of mechanics, who would work the same time for the whole week
+     */
+    public double getStaffWeeks() {
+        long minutes = 0;
+        for (long time : staffTime) {
+            minutes += time;
+        }
+        return (double) minutes / WorkStealingScheduler.WEEK;
+    }
+
+    public double getStaffWeeks(TypeWorkshop type) {
+        return (double) staffTime[type.ordinal()] / WorkStealingScheduler.WEEK;
+    }
+
+    /**
+     * Method for calculating the net profit of the car service with the payroll {@link Workshop#payroll(int, double)},
+     * hiring during the week costs extra.
+     */
+    public int getProfit() {
+        int profit = 0;
+        for (TypeWorkshop type : TYPES) {
+            profit += profit(total[type.ordinal()], getStaffWeeks(type)) - hiringCost[type.ordinal()];
+        }
+        return profit;
+    }
+
+    /**
+     * Method for calculating the net profit of one workshop.
+     *
+     * @param total      income of the workshop
+     * @param staffWeeks number of mechanics, who would work the same time for the whole week
+     */
+    static int profit(int total, double staffWeeks) {
+        if (staffWeeks == 0) return 0;
+        return total - Workshop.payroll(total, staffWeeks);
+    }
+
+    /**
+     * Method for finding the time of stay, which is not exceeded by the given share of served requests.
+     *
+     * @param share share of served requests, for example 0.95
+     * @return time of stay in the car service, min.
+     */
+    public int percentile(double share) {
+        if (served == 0) return 0;
+        if (!sorted) {
+            Arrays.sort(times, 0, served);
+            sorted = true;
+        }
+        return times[(int) Math.ceil(share * served) - 1];
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,166 @@
+package processes;
+
+import base.Mechanic;
+import base.Workshop;
+import enums.TypeWorkshop;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class of the online controller of the staff for {@link WorkStealingScheduler}.
+ * Once in the interval it looks at the queue and the trend of the waiting time of each workshop and:
+ * <ul>
+ * <li>moves an idle mechanic from a workshop without queue to the most overloaded workshop;</li>
+ * <li>if there is nobody to move and the waiting time grows, hires a new mechanic within the staff budget;</li>
+ * <li>dismisses an idle mechanic of the workshop, which has had no queue for the whole shift.</li>
+ * </ul>
+ * After hiring or moving, the mechanic stays in his workshop at least one shift. The workshop, which gave away
+ * or dismissed a mechanic, cannot ask for a new one in the same shift, and every hire costs one day's salary,
+ * so that the staff is not hired and dismissed again and again.
+ */
+public class StaffingController {
+
+    private static final int SHIFT = 240;          // min., the shortest time of work in one place
+    private static final int MIN_STAFF = 1;        // mechanics, who always remain in the workshop
+    private static final int HIGH_BACKLOG = 120;   // min. of queued work per mechanic, when the workshop needs help
+    private static final int WARM_UP = 720;        // min., the first working day, when nobody is dismissed
+
+    /**
+     * Cost of hiring one mechanic during the week: his salary for one working day.
+     */
+    static final int HIRING_COST = Workshop.MIN_SALARY / 5;
+
+    private static final TypeWorkshop[] TYPES = TypeWorkshop.values();
+
+    private int interval = 60;
+    private int budget;  // maximum number of mechanics on the roster at the same time
+
+    private long[] waitSum = new long[TYPES.length];      // waiting time of the requests, started in this interval
+    private int[] waitCount = new int[TYPES.length];
+    private double[] previousWait = new double[TYPES.length];
+    private long[] lastQueued = new long[TYPES.length];   // last time, when the workshop had a queue
+    private long[] lastReduced = new long[TYPES.length];  // last time, when the workshop gave away or dismissed a mechanic
+    private Map<Mechanic, Long> changed = new IdentityHashMap<>();
+
+    private int moves;
+    private int hires;
+    private int dismissals;
+
+    /**
+     * @param budget maximum number of mechanics on the roster at the same time
+     */
+    public StaffingController(int budget) {
+        this.budget = budget;
+        Arrays.fill(lastQueued, WARM_UP - SHIFT);  // the initial staff is not dismissed before the end of the warm-up
+        Arrays.fill(lastReduced, -SHIFT);
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getMoves() {
+        return moves;
+    }
+
+    public int getHires() {
+        return hires;
+    }
+
+    public int getDismissals() {
+        return dismissals;
+    }
+
+    void started(TypeWorkshop type, long wait) {
+        waitSum[type.ordinal()] += wait;
+        waitCount[type.ordinal()]++;
+    }
+
+    /**
+     * Method of making decisions about the staff at the moment {@code now} of the work week.
+     */
+    void control(long now, WorkStealingScheduler scheduler) {
+        TypeWorkshop needy = null;
+        double maxBacklog = HIGH_BACKLOG;
+        for (TypeWorkshop type : TYPES) {
+            int queue = scheduler.queueSize(type);
+            if (queue > 0) lastQueued[type.ordinal()] = now;
+
+            double backlog = (double) queue * scheduler.maxRepairTime(type) / Math.max(scheduler.staff(type), 1);
+            if (backlog > maxBacklog) {
+                maxBacklog = backlog;
+                needy = type;
+            }
+        }
+
+        if (needy != null) {
+            Mechanic donor = findDonor(now, scheduler, needy);
+            if (donor != null) {
+                lastReduced[scheduler.workshopOf(donor).ordinal()] = now;
+                scheduler.reassign(donor, needy, now);
+                changed.put(donor, now);
+                moves++;
+            } else if (scheduler.roster() < budget && now - lastReduced[needy.ordinal()] >= SHIFT && isWaitGrowing(needy)) {
+                Mechanic mechanic = new Mechanic(needy, 1.0);
+                scheduler.recruit(mechanic, now, HIRING_COST);
+                changed.put(mechanic, now);
+                hires++;
+            }
+        }
+
+        for (TypeWorkshop type : TYPES) {
+            if (type != needy && now - lastQueued[type.ordinal()] >= SHIFT && scheduler.staff(type) > MIN_STAFF) {
+                Mechanic mechanic = findMovable(now, scheduler.idleMechanics(type));
+                if (mechanic != null) {
+                    scheduler.dismiss(mechanic, now);
+                    lastReduced[type.ordinal()] = now;
+                    dismissals++;
+                }
+            }
+
+            int i = type.ordinal();
+            previousWait[i] = waitCount[i] > 0 ? (double) waitSum[i] / waitCount[i] : 0;
+            waitSum[i] = 0;
+            waitCount[i] = 0;
+        }
+    }
+
+    /**
+     * Method of finding the mechanic, who can be moved to the overloaded workshop:
+     * from the workshop without queue, which has the most idle mechanics.
+     */
+    private Mechanic findDonor(long now, WorkStealingScheduler scheduler, TypeWorkshop needy) {
+        Mechanic donor = null;
+        int maxIdle = 0;
+        for (TypeWorkshop type : TYPES) {
+            if (type == needy || scheduler.queueSize(type) > 0 || scheduler.staff(type) <= MIN_STAFF) continue;
+
+            List<Mechanic> idle = scheduler.idleMechanics(type);
+            Mechanic mechanic = findMovable(now, idle);
+            if (mechanic != null && idle.size() > maxIdle) {
+                maxIdle = idle.size();
+                donor = mechanic;
+            }
+        }
+        return donor;
+    }
+
+    private Mechanic findMovable(long now, List<Mechanic> mechanics) {
+        for (Mechanic mechanic : mechanics) {
+            Long time = changed.get(mechanic);
+            if (time == null || now - time >= SHIFT) return mechanic;
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code true}, if the requests waited longer than in the previous interval or none of them was started
+     */
+    private boolean isWaitGrowing(TypeWorkshop type) {
+        int i = type.ordinal();
+        return waitCount[i] == 0 || (double) waitSum[i] / waitCount[i] > previousWait[i];
+    }
+}
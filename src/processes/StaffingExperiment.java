@@ -0,0 +1,86 @@
+package processes;
+
+import base.Mechanic;
+import service.CarService;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class of the experiment, which compares the staff fixed for the whole week
+ * with the staff changed online by {@link StaffingController}, on the same streams of requests.
+ */
+public class StaffingExperiment {
+
+    private CarService carService = CarService.getInstance();
+
+    private int replications;
+    private int extraStaff;
+    private long seed;
+
+    /**
+     * @param replications number of simulated weeks
+     * @param extraStaff   how many mechanics the controller may have above the fixed staff
+     * @param seed         initial value of the random number generator
+     */
+    public StaffingExperiment(int replications, int extraStaff, long seed) {
+        this.replications = replications;
+        this.extraStaff = extraStaff;
+        this.seed = seed;
+    }
+
+    /**
+     * Method of running of the experiment and presenting the average results of both policies.
+     */
+    public String expressComparison() {
+        double[] fixed = new double[10];
+        double[] adaptive = new double[10];
+
+        for (int i = 0; i < replications; i++) {
+            ArrivalStream arrivals = ArrivalStream.generate(seed + i);
+            List<Mechanic> staff = WorkStealingScheduler.hireStaff(seed + i);
+
+            accumulate(fixed, new WorkStealingScheduler(arrivals, staff, seed + i).run(), null);
+
+            StaffingController controller = new StaffingController(staff.size() + extraStaff);
+            WorkStealingScheduler scheduler = new WorkStealingScheduler(arrivals, staff, seed + i);
+            scheduler.setController(controller);
+            accumulate(adaptive, scheduler.run(), controller);
+        }
+
+        return "\n" + carService.dividingLine() + "\n" +
+                "    <<< Adaptive staffing: " + replications + " weeks, budget +" + extraStaff + " mechanics >>>\n" +
+                carService.dividingLine() + "\n" +
+                String.format("\t  %-24s %12s \u27A0 %s%n", "", "fixed", "adaptive") +
+                expressLine("Serviced requests", fixed[0], adaptive[0]) +
+                expressLine("Not served requests", fixed[1], adaptive[1]) +
+                expressLine("Time of stay p95, min.", fixed[2], adaptive[2]) +
+                expressLine("Mechanics (full weeks)", fixed[3], adaptive[3]) +
+                expressLine("Revenue, \u20B4", fixed[4], adaptive[4]) +
+                expressLine("Net profit, \u20B4", fixed[5], adaptive[5]) +
+                expressLine("Moved mechanics", fixed[6], adaptive[6]) +
+                expressLine("Hired mechanics", fixed[7], adaptive[7]) +
+                expressLine("Dismissed mechanics", fixed[8], adaptive[8]) +
+                expressLine("Hiring costs, \u20B4", fixed[9], adaptive[9]) +
+                carService.dividingLine();
+    }
+
+    private void accumulate(double[] values, SchedulerReport report, StaffingController controller) {
+        values[0] += (double) report.getCompletedRequests() / replications;
+        values[1] += (double) report.getLostRequests() / replications;
+        values[2] += (double) report.percentile(0.95) / replications;
+        values[3] += report.getStaffWeeks() / replications;
+        values[4] += (double) report.getTotal() / replications;
+        values[5] += (double) report.getProfit() / replications;
+        values[9] += (double) report.getHiringCost() / replications;
+        if (controller != null) {
+            values[6] += (double) controller.getMoves() / replications;
+            values[7] += (double) controller.getHires() / replications;
+            values[8] += (double) controller.getDismissals() / replications;
+        }
+    }
+
+    private String expressLine(String name, double fixed, double adaptive) {
+        return String.format(Locale.ENGLISH, "\t\u23FA %-24s %12.1f \u27A0 %.1f%n", name + ":", fixed, adaptive);
+    }
+}
@@ -0,0 +1,209 @@
+package processes;
+
+import base.Mechanic;
+import base.Workshop;
+import enums.TypeWorkshop;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Class for answering "what-if" questions about the parameters of the workshops on the same recorded traffic.
+ * <p>
+ * Each workshop is replayed by the rules of {@link Workshop}, the model of the real-time run: all its mechanics
+ * repair one car together, the repair time deviates at random in the same way, the requests started until the end
+ * of the week are served, the lost ones are estimated by {@link Workshop#lostRequests(int, int, int)} and
+ * the mechanics are paid by {@link Workshop#salary(int, int)}. It is not the model of {@link WorkStealingScheduler},
+ * in which every mechanic repairs his own car.
+ * <p>
+ * The workshops do not affect each other: each one depends only on its own requests, its own generator
+ * of the repair time and its own parameters. So only the workshops with changed parameters are replayed,
+ * the results of the others are taken from memory. The repair cost does not change the course of the replay
+ * at all, so questions about the cost need no replay.
+ */
+public class WhatIfEvaluator {
+
+    private static final TypeWorkshop[] TYPES = TypeWorkshop.values();
+
+    private long seed;
+    private boolean recordedStaff;
+    private EnumMap<TypeWorkshop, ArrivalStream> streams = new EnumMap<>(TypeWorkshop.class);
+    private EnumMap<TypeWorkshop, List<Mechanic>> staff = new EnumMap<>(TypeWorkshop.class);
+    private EnumMap<TypeWorkshop, WorkshopSetup> baseline = new EnumMap<>(TypeWorkshop.class);
+    private Map<WorkshopSetup.SimulationKey, Replay> memory = new HashMap<>();
+
+    private int simulations;
+    private int questions;
+
+    /**
+     * The baseline is the staff recorded with the stream of requests, the generated stream gets
+     * the staff from {@link WorkStealingScheduler#hireStaff(long)}.
+     *
+     * @param arrivals recorded stream of requests
+     * @param seed     initial value of the random number generator for the staff and the repair time
+     */
+    public WhatIfEvaluator(ArrivalStream arrivals, long seed) {
+        this.seed = seed;
+        this.recordedStaff = !arrivals.getStaff().isEmpty();
+        for (TypeWorkshop type : TYPES) {
+            streams.put(type, arrivals.only(type));
+            staff.put(type, new ArrayList<>());
+        }
+        List<Mechanic> mechanics = recordedStaff ? arrivals.getStaff() : WorkStealingScheduler.hireStaff(seed);
+        for (Mechanic mechanic : mechanics) {
+            staff.get(mechanic.getHome()).add(mechanic);
+        }
+        for (TypeWorkshop type : TYPES) {
+            baseline.put(type, WorkshopSetup.of(type, staff.get(type).size()));
+        }
+    }
+
+    public WorkshopSetup getBaseline(TypeWorkshop type) {
+        return baseline.get(type);
+    }
+
+    /**
+     * @return {@code true}, if the baseline staff was recorded with the stream of requests
+     */
+    public boolean isRecordedStaff() {
+        return recordedStaff;
+    }
+
+    public int getSimulations() {
+        return simulations;
+    }
+
+    public int getQuestions() {
+        return questions;
+    }
+
+    /**
+     * Method of answering the question: the given workshops are changed, the others remain as in the baseline.
+     *
+     * @param changes changed parameters of the workshops
+     * @return net profit, income, served and lost requests of the car service
+     */
+    public Answer evaluate(WorkshopSetup... changes) {
+        Answer answer = new Answer();
+        for (TypeWorkshop type : TYPES) {
+            WorkshopSetup setup = setup(type, changes);
+            Replay replay = memory.get(setup.simulationKey());
+            if (replay == null) {
+                replay = replay(setup);
+                memory.put(setup.simulationKey(), replay);
+            }
+            answer.add(setup, replay);
+        }
+        questions++;
+        return answer;
+    }
+
+    /**
+     * Method of the replay of all workshops for the question, without memory -
+     * the same, what must be done for each question without this class.
+     */
+    public Answer evaluateFully(WorkshopSetup... changes) {
+        Answer answer = new Answer();
+        for (TypeWorkshop type : TYPES) {
+            WorkshopSetup setup = setup(type, changes);
+            answer.add(setup, replay(setup));
+        }
+        return answer;
+    }
+
+    private WorkshopSetup setup(TypeWorkshop type, WorkshopSetup... changes) {
+        WorkshopSetup setup = baseline.get(type);
+        for (WorkshopSetup change : changes) {
+            if (change.getType() == type) setup = change;
+        }
+        return setup;
+    }
+
+    /**
+     * Method of the replay of one workshop by the rules of {@link Workshop}: the requests are repaired in the order
+     * of arrival by all mechanics together, the repair started before the end of the week is completed.
+     */
+    private Replay replay(WorkshopSetup setup) {
+        TypeWorkshop type = setup.getType();
+        ArrivalStream stream = streams.get(type);
+        Random random = new Random(seed * 31 + type.ordinal());  // own generator for each workshop
+        int repair_time = Workshop.repairTime(setup.getMaxRepairTime(), staff.get(type), setup.getNumber_of_mechanics());
+
+        Replay replay = new Replay();
+        long free = 0;  // time, when the mechanics finish the current repair
+        for (int i = 0; i < stream.size(); i++) {
+            long start = Math.max(free, stream.getTime(i));
+            if (start >= WorkStealingScheduler.WEEK) break;
+            free = start + repair_time + Workshop.differenceRepairTime(random, repair_time, setup.getDifference_V());
+            replay.completedRequests++;
+        }
+        replay.lostRequests = Workshop.lostRequests(stream.size(), replay.completedRequests, repair_time);
+        simulations++;
+        return replay;
+    }
+
+    /**
+     * Result of the replay of one workshop, which does not depend on the repair cost.
+     */
+    private static class Replay {
+        private int completedRequests;
+        private int lostRequests;
+    }
+
+    /**
+     * Answer to one "what-if" question.
+     */
+    public static class Answer {
+        private int completedRequests;
+        private int lostRequests;
+        private int total;
+        private int profit;
+
+        public int getCompletedRequests() {
+            return completedRequests;
+        }
+
+        public int getLostRequests() {
+            return lostRequests;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getProfit() {
+            return profit;
+        }
+
+        private void add(WorkshopSetup setup, Replay replay) {
+            int number_of_mechanics = setup.getNumber_of_mechanics();
+            int total = replay.completedRequests * setup.getRepair_cost();
+            completedRequests += replay.completedRequests;
+            lostRequests += replay.lostRequests;
+            this.total += total;
+            profit += total - Workshop.salary(total, number_of_mechanics) * number_of_mechanics;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Answer)) return false;
+            Answer answer = (Answer) o;
+            return completedRequests == answer.completedRequests && lostRequests == answer.lostRequests &&
+                    total == answer.total && profit == answer.profit;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((completedRequests * 31 + lostRequests) * 31 + total) * 31 + profit;
+        }
+
+        @Override
+        public String toString() {
+            return "served " + completedRequests + ", lost " + lostRequests + ", revenue " + total + "\u20B4, profit " + profit + "\u20B4";
+        }
+    }
+}
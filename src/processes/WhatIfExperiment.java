@@ -0,0 +1,107 @@
+package processes;
+
+import enums.TypeWorkshop;
+import service.CarService;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Class of the experiment, which answers a batch of random "what-if" questions on the recorded traffic
+ * by {@link WhatIfEvaluator} and by the replay of all workshops for each question, and compares the time.
+ * Workshops are replayed by the rules of {@link base.Workshop}, as in the real-time run.
+ */
+public class WhatIfExperiment {
+
+    private CarService carService = CarService.getInstance();
+
+    private int questions;
+    private long seed;
+
+    /**
+     * @param questions number of questions in the batch
+     * @param seed      initial value of the random number generator
+     */
+    public WhatIfExperiment(int questions, long seed) {
+        this.questions = questions;
+        this.seed = seed;
+    }
+
+    /**
+     * Method of running of the experiment. The traffic and the staff are read from the file "Arrivals.bin" of the last real-time run,
+     * if there is no file - it is generated.
+     *
+     * @throws IOException if file read error
+     */
+    public String expressComparison() throws IOException {
+        String file = "src/files/Arrivals.bin";
+        ArrivalStream arrivals = new File(file).exists() ? ArrivalStream.read(file) : ArrivalStream.generate(seed);
+        WorkshopSetup[] batch = createQuestions(new WhatIfEvaluator(arrivals, seed));
+
+        long fullTime = System.nanoTime();
+        WhatIfEvaluator evaluator = new WhatIfEvaluator(arrivals, seed);
+        WhatIfEvaluator.Answer[] full = new WhatIfEvaluator.Answer[batch.length];
+        for (int i = 0; i < batch.length; i++) {
+            full[i] = evaluator.evaluateFully(batch[i]);
+        }
+        fullTime = System.nanoTime() - fullTime;
+
+        long incrementalTime = System.nanoTime();
+        evaluator = new WhatIfEvaluator(arrivals, seed);
+        WhatIfEvaluator.Answer[] incremental = new WhatIfEvaluator.Answer[batch.length];
+        for (int i = 0; i < batch.length; i++) {
+            incremental[i] = evaluator.evaluate(batch[i]);
+        }
+        incrementalTime = System.nanoTime() - incrementalTime;
+
+        int differences = 0;
+        for (int i = 0; i < batch.length; i++) {
+            if (!full[i].equals(incremental[i])) differences++;
+        }
+
+        StringBuilder resultStr = new StringBuilder();
+        resultStr.append("\n").append(carService.dividingLine()).append("\n");
+        resultStr.append("       <<< What-if: ").append(batch.length).append(" questions, ").
+                append(arrivals.size()).append(" requests >>>\n");
+        resultStr.append(carService.dividingLine()).append("\n");
+        resultStr.append("\t\u23FA Model: rules of the workshop (joint repair, estimated losses), staff ").
+                append(evaluator.isRecordedStaff() ? "of the recorded run" : "generated, seed " + seed).append("\n");
+        resultStr.append("\t\u23FA Baseline: ").append(evaluator.evaluate()).append("\n");
+        for (int i = 0; i < Math.min(5, batch.length); i++) {
+            resultStr.append("\t\u23FA ").append(batch[i]).append("\n\t   \u27A5 ").append(incremental[i]).append("\n");
+        }
+        resultStr.append(String.format(Locale.ENGLISH, "\t\u23FA Replays of all workshops: %d, %.1f ms%n", batch.length, fullTime / 1e6));
+        resultStr.append(String.format(Locale.ENGLISH, "\t\u23FA Replays of one workshop: %d, %.1f ms (x%.0f faster)%n",
+                evaluator.getSimulations(), incrementalTime / 1e6, (double) fullTime / incrementalTime));
+        resultStr.append("\t\u23FA Answers different from the replay of all workshops: ").append(differences).append("\n");
+        return String.valueOf(resultStr.append(carService.dividingLine()));
+    }
+
+    /**
+     * Method of creating random questions: change of the repair cost, the repair time or the number of mechanics
+     * of one workshop.
+     */
+    private WorkshopSetup[] createQuestions(WhatIfEvaluator evaluator) {
+        Random random = new Random(seed);
+        WorkshopSetup[] batch = new WorkshopSetup[questions];
+        for (int i = 0; i < batch.length; i++) {
+            WorkshopSetup setup = evaluator.getBaseline(TypeWorkshop.values()[random.nextInt(TypeWorkshop.values().length)]);
+            switch (random.nextInt(3)) {
+                case 0: {
+                    batch[i] = setup.withRepair_cost(setup.getRepair_cost() / 100 * (80 + random.nextInt(41)));
+                    break;
+                }
+                case 1: {
+                    batch[i] = setup.withMaxRepairTime(setup.getMaxRepairTime() / 10 * (8 + random.nextInt(5)));
+                    break;
+                }
+                default: {
+                    batch[i] = setup.withNumber_of_mechanics(Math.max(1, setup.getNumber_of_mechanics() + random.nextInt(5) - 2));
+                }
+            }
+        }
+        return batch;
+    }
+}
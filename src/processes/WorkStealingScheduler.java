@@ -0,0 +1,342 @@
+package processes;
+
+import base.CompactRequestQueue;
+import base.Mechanic;
+import base.Workshop;
+import enums.TypeWorkshop;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Class of the model of the car service, in which every mechanic {@link Mechanic} is a separate worker.
+ * The work week is simulated in virtual minutes, so one run takes milliseconds instead of the real time.
+ * <p>
+ * The mechanic takes requests from the queue of his home workshop. If it is empty, the cross-trained mechanic
+ * "steals" the request from the longest queue of the overloaded workshop, for which he is trained.
+ * Queues are kept in {@link CompactRequestQueue}, so that the overloaded workshop can hold millions of requests.
+ * The passed mechanics do not change: moves and training during the week are kept only in the simulation.
+ */
+public class WorkStealingScheduler {
+
+    /**
+     * Presentation of one work week in minutes: {@value #WEEK}
+     */
+    public static final int WEEK = 4560;
+
+    /**
+     * How many times slower the mechanic works outside his home workshop.
+     */
+    private static final double FOREIGN_PENALTY = 1.2;
+
+    /**
+     * Queue length, from which the workshop is considered overloaded.
+     */
+    private static final int STEAL_THRESHOLD = 2;
+
+    private ArrivalStream arrivals;
+    private List<Worker> idle = new ArrayList<>();
+    private PriorityQueue<Worker> busy = new PriorityQueue<>(
+            Comparator.<Worker>comparingLong(worker -> worker.freeAt).thenComparingInt(worker -> worker.number));
+    private EnumMap<TypeWorkshop, CompactRequestQueue> queues = new EnumMap<>(TypeWorkshop.class);
+    private EnumMap<TypeWorkshop, Random> randoms = new EnumMap<>(TypeWorkshop.class);
+    private EnumMap<TypeWorkshop, WorkshopSetup> setups = new EnumMap<>(TypeWorkshop.class);  // changed parameters
+    private int[] staff = new int[TypeWorkshop.values().length];  // mechanics of each workshop on the roster
+    private SchedulerReport report = new SchedulerReport();
+    private StaffingController controller;
+    private int hired;               // number of mechanics ever hired, orders the mechanics with equal free time
+
+    /**
+     * @param arrivals  stream of requests for the work week
+     * @param mechanics staff of the car service
+     * @param seed      initial value of the random deviations of the repair time
+     */
+    public WorkStealingScheduler(ArrivalStream arrivals, List<Mechanic> mechanics, long seed) {
+        this.arrivals = arrivals;
+        for (TypeWorkshop type : TypeWorkshop.values()) {
+            queues.put(type, CompactRequestQueue.create(type));
+            randoms.put(type, new Random(seed * 31 + type.ordinal()));  // own generator for each workshop
+        }
+        for (Mechanic mechanic : mechanics) {
+            hire(mechanic, 0);
+        }
+    }
+
+    /**
+     * Method of changing the repair cost and time of the workshop, instead of the values of {@link TypeWorkshop}.
+     * The number of mechanics is set by the staff passed to the constructor.
+     */
+    public void setSetup(WorkshopSetup setup) {
+        setups.put(setup.getType(), setup);
+    }
+
+    /**
+     * Method of setting the controller, which changes the staff of the workshops during the week.
+     * Without the controller, the staff is fixed for the whole week.
+     */
+    public void setController(StaffingController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Method of simulation of the work week: events of arrival of requests, completion of repairs
+     * and decisions of the controller are processed in the order of their time.
+     *
+     * @return statistics of the simulated week
+     */
+    public SchedulerReport run() {
+        long nextControl = controller != null ? controller.getInterval() : Long.MAX_VALUE;
+        int next = 0;
+
+        while (next < arrivals.size() || !busy.isEmpty()) {
+            long arrival = next < arrivals.size() ? arrivals.getTime(next) : Long.MAX_VALUE;
+            long free = busy.isEmpty() ? Long.MAX_VALUE : busy.peek().freeAt;
+            long now;
+            if (nextControl < WEEK && nextControl <= arrival && nextControl <= free) {
+                now = nextControl;
+                controller.control(now, this);
+                nextControl += controller.getInterval();
+            } else if (arrival < free) {
+                now = arrival;
+                TypeWorkshop type = arrivals.getType(next);
+                queues.get(type).add(arrivals.getClient(next), arrivals.getTime(next));
+                report.arrive(type);
+                next++;
+            } else {
+                Worker worker = busy.poll();
+                now = worker.freeAt;
+                report.complete(worker.type, repair_cost(worker.type), (int) (now - worker.arrival), worker.foreign);
+                idle.add(worker);
+            }
+
+            if (now < WEEK) {
+                dispatch(now);
+            }
+        }
+
+        for (Worker worker : idle) {
+            leave(worker, WEEK);  // the rest of the staff worked until the end of the week
+        }
+        for (TypeWorkshop type : TypeWorkshop.values()) {
+            report.lose(type, queues.get(type).size());  // requests, which were not started until the end of the week
+        }
+        return report;
+    }
+
+    private void dispatch(long now) {
+        for (int i = 0; i < idle.size(); ) {
+            Worker worker = idle.get(i);
+            CompactRequestQueue queue = chooseQueue(worker);
+            if (queue == null) {
+                i++;
+                continue;
+            }
+            worker.type = queue.peekType();
+            worker.arrival = queue.peekTime();
+            queue.remove();
+            worker.foreign = worker.type != worker.home;
+            worker.freeAt = now + repairTime(worker.mechanic, worker.type, worker.foreign);
+            idle.remove(i);
+            busy.add(worker);
+            if (controller != null) {
+                controller.started(worker.type, now - worker.arrival);
+            }
+        }
+    }
+
+    private int repair_cost(TypeWorkshop type) {
+        return setups.containsKey(type) ? setups.get(type).getRepair_cost() : type.getRepair_cost();
+    }
+
+    int maxRepairTime(TypeWorkshop type) {
+        return setups.containsKey(type) ? setups.get(type).getMaxRepairTime() : type.getMaxRepairTime();
+    }
+
+    private int difference_V(TypeWorkshop type) {
+        return setups.containsKey(type) ? setups.get(type).getDifference_V() : type.getDifference_V();
+    }
+
+    int queueSize(TypeWorkshop type) {
+        return queues.get(type).size();
+    }
+
+    int staff(TypeWorkshop type) {
+        return staff[type.ordinal()];
+    }
+
+    int roster() {
+        int roster = 0;
+        for (int number : staff) {
+            roster += number;
+        }
+        return roster;
+    }
+
+    /**
+     * @return mechanics of the workshop, who are not busy with the repair now
+     */
+    List<Mechanic> idleMechanics(TypeWorkshop type) {
+        List<Mechanic> mechanics = new ArrayList<>();
+        for (Worker worker : idle) {
+            if (worker.home == type) mechanics.add(worker.mechanic);
+        }
+        return mechanics;
+    }
+
+    void hire(Mechanic mechanic, long now) {
+        Worker worker = new Worker(mechanic, hired++);
+        worker.rosterFrom = now;
+        staff[mechanic.getHome().ordinal()]++;
+        idle.add(worker);
+    }
+
+    /**
+     * Method of hiring the mechanic during the week, the cost of hiring is paid by his workshop.
+     */
+    void recruit(Mechanic mechanic, long now, int cost) {
+        hire(mechanic, now);
+        report.recruit(mechanic.getHome(), cost);
+    }
+
+    /**
+     * @return workshop, in which the idle mechanic works now
+     */
+    TypeWorkshop workshopOf(Mechanic mechanic) {
+        return findIdle(mechanic).home;
+    }
+
+    /**
+     * Method of moving the idle mechanic to another workshop, he is trained for its work on the spot.
+     */
+    void reassign(Mechanic mechanic, TypeWorkshop type, long now) {
+        Worker worker = findIdle(mechanic);
+        report.staff(worker.home, now - worker.rosterFrom);
+        staff[worker.home.ordinal()]--;
+
+        worker.skills.add(type);
+        worker.home = type;
+        worker.rosterFrom = now;
+        staff[type.ordinal()]++;
+    }
+
+    /**
+     * Method of dismissing the idle mechanic till the end of the week.
+     */
+    void dismiss(Mechanic mechanic, long now) {
+        Worker worker = findIdle(mechanic);
+        idle.remove(worker);
+        leave(worker, now);
+    }
+
+    private void leave(Worker worker, long now) {
+        report.staff(worker.home, now - worker.rosterFrom);
+        staff[worker.home.ordinal()]--;
+    }
+
+    private Worker findIdle(Mechanic mechanic) {
+        for (Worker worker : idle) {
+            if (worker.mechanic == mechanic) return worker;
+        }
+        throw new IllegalArgumentException("Mechanic is busy: " + mechanic.getSurname() + " " + mechanic.getName());
+    }
+
+    /**
+     * Method of choosing the queue, from which the mechanic takes the next request.
+     *
+     * @return queue of the home workshop, the longest queue of the overloaded workshop or {@code null}
+     */
+    private CompactRequestQueue chooseQueue(Worker worker) {
+        CompactRequestQueue home = queues.get(worker.home);
+        if (!home.isEmpty()) {
+            return home;
+        }
+
+        CompactRequestQueue longest = null;
+        for (TypeWorkshop type : worker.skills) {
+            CompactRequestQueue queue = queues.get(type);
+            if (queue.size() >= STEAL_THRESHOLD && (longest == null || queue.size() > longest.size())) {
+                longest = queue;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Method of calculating the repair time of one request by one mechanic,
+     * with the same random deviation, as in the {@link base.Workshop}.
+     */
+    private int repairTime(Mechanic mechanic, TypeWorkshop type, boolean foreign) {
+        int repair_time = (int) (maxRepairTime(type) / mechanic.getSpeed() * (foreign ? FOREIGN_PENALTY : 1));
+        return repair_time + Workshop.differenceRepairTime(randoms.get(type), repair_time, difference_V(type));
+    }
+
+    /**
+     * Method of hiring the staff of the car service: from 2 to 7 mechanics in each workshop, as in the {@link base.Workshop}.
+     *
+     * @param seed initial value of the random number generator
+     * @return list of mechanics, each is trained only for his home workshop
+     */
+    public static List<Mechanic> hireStaff(long seed) {
+        Random random = new Random(seed);
+        List<Mechanic> staff = new ArrayList<>();
+        for (TypeWorkshop type : TypeWorkshop.values()) {
+            int number_of_mechanics = random.nextInt(6) + 2;
+            for (int i = 0; i < number_of_mechanics; i++) {
+                staff.add(new Mechanic(type, random));
+            }
+        }
+        return staff;
+    }
+
+    /**
+     * Method of cross-training of the staff: each mechanic learns the work of several other workshops.
+     *
+     * @param staff   list of mechanics, does not change
+     * @param breadth number of additional workshops for each mechanic
+     * @param seed    initial value of the random number generator
+     * @return copies of mechanics with additional skills
+     */
+    public static List<Mechanic> crossTrain(List<Mechanic> staff, int breadth, long seed) {
+        Random random = new Random(seed);
+        List<Mechanic> trained = new ArrayList<>();
+        for (Mechanic mechanic : staff) {
+            Mechanic copy = new Mechanic(mechanic);
+            List<TypeWorkshop> others = new ArrayList<>();
+            for (TypeWorkshop type : TypeWorkshop.values()) {
+                if (!copy.canRepair(type)) others.add(type);
+            }
+            for (int i = 0; i < breadth && !others.isEmpty(); i++) {
+                copy.train(others.remove(random.nextInt(others.size())));
+            }
+            trained.add(copy);
+        }
+        return trained;
+    }
+
+    /**
+     * State of the mechanic during the simulation.
+     */
+    private static class Worker {
+        private Mechanic mechanic;
+        private int number;
+        private TypeWorkshop home;             // workshop, in which the mechanic works now
+        private EnumSet<TypeWorkshop> skills;  // also the workshops, for which he was trained during the week
+        private TypeWorkshop type;             // type of the request in repair
+        private long arrival;                  // time of arrival of the request in repair
+        private boolean foreign;
+        private long freeAt;
+        private long rosterFrom;               // time, from which the mechanic works in his current workshop
+
+        Worker(Mechanic mechanic, int number) {
+            this.mechanic = mechanic;
+            this.number = number;
+            this.home = mechanic.getHome();
+            this.skills = EnumSet.copyOf(mechanic.getSkills());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package processes;
+
+import enums.TypeWorkshop;
+
+/**
+ * Class of the parameters of one workshop for "what-if" questions: the same parameters,
+ * which the car service passes to the {@link base.Workshop}, and the number of mechanics.
+ * Objects do not change, methods {@code with...} return a changed copy.
+ */
+public class WorkshopSetup {
+
+    /**
+     * The shortest repair time of one request by one average mechanic, min.
+     */
+    public static final int MIN_REPAIR_TIME = 3;
+
+    private TypeWorkshop type;
+    private int repair_cost;
+    private int maxRepairTime;
+    private int difference_V;
+    private int number_of_mechanics;
+
+    /**
+     * @throws IllegalArgumentException if the parameters cannot be simulated
+     */
+    public WorkshopSetup(TypeWorkshop type, int repair_cost, int maxRepairTime, int difference_V, int number_of_mechanics) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type of workshop is not set");
+        }
+        if (repair_cost < 0) {
+            throw new IllegalArgumentException("Repair cost is negative: " + repair_cost);
+        }
+        if (maxRepairTime < MIN_REPAIR_TIME) {
+            throw new IllegalArgumentException("Repair time is shorter than " + MIN_REPAIR_TIME + " min.: " + maxRepairTime);
+        }
+        if (difference_V <= 60) {
+            throw new IllegalArgumentException("Time difference is not longer than 60 min.: " + difference_V);
+        }
+        if (number_of_mechanics < 1) {
+            throw new IllegalArgumentException("Workshop has no mechanics: " + number_of_mechanics);
+        }
+        this.type = type;
+        this.repair_cost = repair_cost;
+        this.maxRepairTime = maxRepairTime;
+        this.difference_V = difference_V;
+        this.number_of_mechanics = number_of_mechanics;
+    }
+
+    /**
+     * @return the workshop with the parameters from {@link TypeWorkshop}
+     */
+    public static WorkshopSetup of(TypeWorkshop type, int number_of_mechanics) {
+        return new WorkshopSetup(type, type.getRepair_cost(), type.getMaxRepairTime(), type.getDifference_V(), number_of_mechanics);
+    }
+
+    public WorkshopSetup withRepair_cost(int repair_cost) {
+        return new WorkshopSetup(type, repair_cost, maxRepairTime, difference_V, number_of_mechanics);
+    }
+
+    public WorkshopSetup withMaxRepairTime(int maxRepairTime) {
+        return new WorkshopSetup(type, repair_cost, maxRepairTime, difference_V, number_of_mechanics);
+    }
+
+    public WorkshopSetup withNumber_of_mechanics(int number_of_mechanics) {
+        return new WorkshopSetup(type, repair_cost, maxRepairTime, difference_V, number_of_mechanics);
+    }
+
+    public TypeWorkshop getType() {
+        return type;
+    }
+
+    public int getRepair_cost() {
+        return repair_cost;
+    }
+
+    public int getMaxRepairTime() {
+        return maxRepairTime;
+    }
+
+    public int getDifference_V() {
+        return difference_V;
+    }
+
+    public int getNumber_of_mechanics() {
+        return number_of_mechanics;
+    }
+
+    /**
+     * Parameters, which change the course of the simulation; the repair cost changes only the money.
+     */
+    SimulationKey simulationKey() {
+        return new SimulationKey(this);
+    }
+
+    @Override
+    public String toString() {
+        return type + ": cost " + repair_cost + ", time " + maxRepairTime + ", mechanics " + number_of_mechanics;
+    }
+
+    /**
+     * Key of the simulation results: two workshops with equal keys are simulated in the same way.
+     */
+    static class SimulationKey {
+        private TypeWorkshop type;
+        private int number_of_mechanics;
+        private int maxRepairTime;
+        private int difference_V;
+
+        private SimulationKey(WorkshopSetup setup) {
+            this.type = setup.type;
+            this.number_of_mechanics = setup.number_of_mechanics;
+            this.maxRepairTime = setup.maxRepairTime;
+            this.difference_V = setup.difference_V;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SimulationKey)) return false;
+            SimulationKey key = (SimulationKey) o;
+            return type == key.type && number_of_mechanics == key.number_of_mechanics &&
+                    maxRepairTime == key.maxRepairTime && difference_V == key.difference_V;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((type.ordinal() * 31 + number_of_mechanics) * 31 + maxRepairTime) * 31 + difference_V;
+        }
+    }
+}
@@ -4,11 +4,17 @@ import base.Mechanic;
 import base.Request;
 import base.Workshop;
 import enums.TypeWorkshop;
+import events.ReportWriteEvent;
+import events.RequestRoutingEvent;
+import processes.ArrivalStream;
 import processes.GenerateRequests;
+import processes.ProgressReporter;
 import processes.Statistics;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Formatter;
+import java.util.Locale;
 
 /**
  * Class interactions with auto service.
@@ -19,7 +25,7 @@ import java.io.IOException;
  */
 public class CarService {
 
-    private boolean signal = true;
+    private volatile boolean signal = true;  // volatile - read in the loops of other threads
     private long total_programTime;
     private int total_number_of_mechanics;
     private int total_allRequests;
@@ -35,6 +41,11 @@ public class CarService {
      */
     private Workshop[] station = new Workshop[4];
 
+    /**
+     * Record of all requests of the week, for "what-if" questions without repeating the run.
+     */
+    private ArrivalStream arrivals = new ArrivalStream();
+
     private CarService() {
         total_programTime = System.currentTimeMillis();
     }
@@ -60,20 +71,29 @@ public class CarService {
      */
     void createCarService() throws IOException, InterruptedException {
 
-        station[0] = new Workshop(TypeWorkshop.Vehicle_inspection, 1500, 420, 360);
-        station[1] = new Workshop(TypeWorkshop.Tire_fitting, 3000, 560, 720);
-        station[2] = new Workshop(TypeWorkshop.Body_repair, 4500, 770, 1080);
-        station[3] = new Workshop(TypeWorkshop.Engine_repair, 7500, 910, 1440);
+        for (TypeWorkshop type : TypeWorkshop.values()) {
+            station[type.ordinal()] = new Workshop(type, type.getRepair_cost(), type.getMaxRepairTime(), type.getDifference_V());
+        }
 
         createFiles();              // creating files with the insertion of the file header
         writeToFile_AllMechanics(); // creating randomly generated requests
+        new ProgressReporter();     // run thread class ProgressReporter
         generateRandomRequests();
+        for (Workshop workshop : station) {
+            for (Mechanic mechanic : workshop.getMechanics()) {
+                arrivals.addMechanic(mechanic);
+            }
+        }
+        arrivals.write("src/files/Arrivals.bin");
         new Statistics();           // run thread class Statistics
         writeToFile_AllStatistics();
     }
 
 
     private void createFiles() throws IOException {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+
         try (FileWriter writer_AllClients = new FileWriter("src/files/AllClients.txt")) {
             writer_AllClients.write(dividingLine() + "\n");
             writer_AllClients.write("         <<< List of clients in the car service >>>\n");
@@ -91,6 +111,9 @@ public class CarService {
             writer_AllStatistics.write("           <<< All statistics the car service >>>\n");
             writer_AllStatistics.write(dividingLine() + "\n");
         }
+
+        event.file = "headers of all files";
+        event.commit();
     }
 
     /**
@@ -113,17 +136,27 @@ public class CarService {
      * @throws IOException  if file write error
      */
     public void receivingAndSendingRequests(Request[] requests) throws IOException {
+        RequestRoutingEvent event = new RequestRoutingEvent();
+        event.begin();
+
         try (FileWriter writer = new FileWriter("src/files/AllClients.txt", true)) {
             for (Workshop workshop : station) {
                 for (Request request : requests) {
                     if (workshop.getType() == request.getType()) {
                         writer.write("\tclient : " + request.getClient().getSurname() + " " + request.getClient().getName() + ", \u00AB" + request.getType() + "\u00BB\n");
                         workshop.addRequest(request);
+                        arrivals.add(request.getTime(), request.getClient().getId(), request.getType());
                     }
                 }
             }
         }
-        showProcesses();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.services = requests.length;
+            event.arrivalTime = requests[0].getTime();
+            event.commit();
+        }
     }
 
     public void setSignal(boolean signal) {
@@ -162,12 +195,19 @@ public class CarService {
         total_loseProfit += loseProfit;
     }
 
-    private void showProcesses() {
-        System.out.println("\ttype of workshop: allR \u27A0 compR \u26AF averageT \u27A0 rate");
+    /**
+     * Method for presenting the current progress of all workshops, without waiting for their locks.
+     *
+     * @see ProgressReporter
+     */
+    public String expressProcesses() {
+        StringBuilder resultStr = new StringBuilder();
+        resultStr.append("\ttype of workshop: allR \u27A0 compR \u26AF averageT \u27A0 rate").
+                append(" (").append(getTotal_programTime()).append(" sec.)\n");
         for (Workshop workshop : station) {
-            workshop.showProcess_Workshop();
+            resultStr.append(workshop.expressProcess_Workshop());
         }
-        System.out.println("=============================================================");
+        return String.valueOf(resultStr.append("=============================================================\n"));
     }
 
     public void showStatistics() {
@@ -207,15 +247,30 @@ public class CarService {
      * @throws IOException if file write error
      */
     private void writeToFile_AllMechanics() throws IOException {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+
         for (Workshop workshop : station) {
             try (FileWriter writer = new FileWriter("src/files/AllMechanics.txt", true)) {
                 writer.write("\u23FA Workshop - \u00AB" + workshop.getType() + "\u00BB:\n");
-                for (int i = 0; i < workshop.getNumber_of_mechanics(); i++) {
-                    Mechanic mechanic = new Mechanic();
-                    writer.write("\tmechanic : " + mechanic.getSurname() + " " + mechanic.getName() + "\n");
+                for (Mechanic mechanic : workshop.getMechanics()) {
+                    writer.write("\tmechanic : " + mechanic.getSurname() + " " + mechanic.getName() +
+                            ", speed: " + expressSpeed(mechanic) + ", skills: " + mechanic.getSkills() + "\n");
                 }
             }
         }
+
+        event.file = "AllMechanics.txt";
+        event.commit();
+    }
+
+    /**
+     * Method for string representation of the speed of the mechanic ("trimmed" to the tenth).
+     */
+    private Formatter expressSpeed(Mechanic mechanic) {
+        Formatter formatter = new Formatter(Locale.ENGLISH);
+        formatter.format("%.1f", mechanic.getSpeed());
+        return formatter;
     }
 
     /**
@@ -225,6 +280,9 @@ public class CarService {
      * @throws IOException if file write error
      */
     private void writeToFile_AllStatistics() throws IOException {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+
         try (FileWriter writer = new FileWriter("src/files/AllStatistics.txt", true)) {
             for (Workshop workshop : station) {
                 writer.write(workshop.expressAllStatistics_Workshop());
@@ -245,6 +303,9 @@ public class CarService {
 
             writer.write(dividingLine());
         }
+
+        event.file = "AllStatistics.txt";
+        event.commit();
     }
 
     public String dividingLine() {
@@ -1,9 +1,21 @@
 package service;
 
+import farm.Coordinator;
+import processes.CrossTrainingExperiment;
+import processes.StaffingExperiment;
+import processes.WhatIfExperiment;
+
 import java.io.IOException;
 
 /**
  * The main class of the software product.
+ * Without arguments runs the car service in real time, with the argument - one of the experiments:
+ * <ul>
+ * <li>{@code cross-training [weeks] [skills]} - comparison of the dedicated and cross-trained staff</li>
+ * <li>{@code farm [workers] [weeks] [skills]} - the same comparison for 0..skills, split over several worker JVMs</li>
+ * <li>{@code adaptive [weeks] [budget]} - comparison of the fixed staff and the staff changed online</li>
+ * <li>{@code what-if [questions] [seed]} - batch of questions about the parameters of the workshops on the recorded traffic</li>
+ * </ul>
  *
  * @author Syniuk Valentyn
  * @version 1.0
@@ -12,9 +24,37 @@ public class CarService_Main {
 
     public static void main(String[] args) throws InterruptedException, IOException {
 
+        if (args.length > 0 && args[0].equals("cross-training")) {
+            int weeks = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+            int skills = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+            System.out.println(new CrossTrainingExperiment(weeks, skills, System.currentTimeMillis()).expressComparison());
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("adaptive")) {
+            int weeks = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+            int budget = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+            System.out.println(new StaffingExperiment(weeks, budget, System.currentTimeMillis()).expressComparison());
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("what-if")) {
+            int questions = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;  // the same baseline in every run
+            System.out.println(new WhatIfExperiment(questions, seed).expressComparison());
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("farm")) {
+            int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+            int weeks = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+            int skills = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+            System.out.println(new Coordinator(workers).expressSweep(weeks, skills, System.currentTimeMillis()));
+            return;
+        }
+
         CarService carService = CarService.getInstance();
         carService.createCarService();
 
     }
 }
-